@@ -66,6 +66,8 @@ public class Main {
     app.post("/tasklists", taskListsController::create);
     app.put("/tasklists/{id}", taskListsController::update);
     app.delete("/tasklists/{id}", taskListsController::delete);
+    app.post("/tasklists/{id}/tasks", taskListsController::addTask);
+    app.delete("/tasklists/{id}/tasks/{taskId}", taskListsController::removeTask);
 
     // https://docs.oracle.com/javase/8/docs/technotes/guides/lang/hook-design.html
     Runtime.getRuntime()
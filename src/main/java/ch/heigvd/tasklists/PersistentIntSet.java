@@ -0,0 +1,221 @@
+package ch.heigvd.tasklists;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable set of ints backed by a bitmap trie (32-way branching, path copying). Adding or
+ * removing an element copies only the few nodes on the path to it and shares everything else with
+ * the previous version, so a reader holding a set always sees a consistent snapshot without
+ * locking. Elements are iterated in ascending order.
+ *
+ * <p>Serialized by Jackson as a plain JSON array of integers.
+ */
+public final class PersistentIntSet {
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+  // 32-bit keys: 2 bits on the root level, then 5 bits per level down to the leaf bitmaps
+  private static final int ROOT_SHIFT = 30;
+
+  private static final PersistentIntSet EMPTY =
+      new PersistentIntSet(new Node(0, new Node[0]), 0);
+
+  /**
+   * A node of the trie. Internal nodes only store the children whose bit is set in {@code bitmap};
+   * leaves ({@code children == null}) store their members directly in {@code bitmap}.
+   */
+  private record Node(int bitmap, Node[] children) {}
+
+  private final Node root;
+  private final int size;
+
+  private PersistentIntSet(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  public static PersistentIntSet empty() {
+    return EMPTY;
+  }
+
+  @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+  public static PersistentIntSet of(int[] values) {
+    PersistentIntSet set = EMPTY;
+    if (values != null) {
+      for (int value : values) {
+        set = set.with(value);
+      }
+    }
+    return set;
+  }
+
+  public static PersistentIntSet of(Collection<Integer> values) {
+    PersistentIntSet set = EMPTY;
+    if (values != null) {
+      for (Integer value : values) {
+        set = set.with(value);
+      }
+    }
+    return set;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean contains(int value) {
+    int key = toKey(value);
+    Node node = root;
+    for (int shift = ROOT_SHIFT; shift > 0; shift -= BITS) {
+      int bit = 1 << ((key >>> shift) & MASK);
+      if ((node.bitmap() & bit) == 0) {
+        return false;
+      }
+      node = node.children()[Integer.bitCount(node.bitmap() & (bit - 1))];
+    }
+    return (node.bitmap() & (1 << (key & MASK))) != 0;
+  }
+
+  /** Returns a set containing the given value, or this set if it is already a member. */
+  public PersistentIntSet with(int value) {
+    Node newRoot = add(root, toKey(value), ROOT_SHIFT);
+    return newRoot == root ? this : new PersistentIntSet(newRoot, size + 1);
+  }
+
+  /** Returns a set without the given value, or this set if it is not a member. */
+  public PersistentIntSet without(int value) {
+    Node newRoot = remove(root, toKey(value), ROOT_SHIFT);
+    if (newRoot == root) {
+      return this;
+    }
+    return newRoot == null ? EMPTY : new PersistentIntSet(newRoot, size - 1);
+  }
+
+  /** Calls the action for every member, in ascending order. */
+  public void forEach(IntConsumer action) {
+    forEach(root, 0, ROOT_SHIFT, action);
+  }
+
+  @JsonValue
+  public int[] toArray() {
+    int[] values = new int[size];
+    int[] index = {0};
+    forEach(value -> values[index[0]++] = value);
+    return values;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PersistentIntSet other) || size != other.size) {
+      return false;
+    }
+    return Arrays.equals(toArray(), other.toArray());
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(toArray());
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+
+  // flip the sign bit so that unsigned key order matches signed int order
+  private static int toKey(int value) {
+    return value ^ Integer.MIN_VALUE;
+  }
+
+  private static Node emptyNode(int shift) {
+    return new Node(0, shift == 0 ? null : new Node[0]);
+  }
+
+  private static Node add(Node node, int key, int shift) {
+    if (shift == 0) {
+      int bit = 1 << (key & MASK);
+      return (node.bitmap() & bit) != 0 ? node : new Node(node.bitmap() | bit, null);
+    }
+
+    int bit = 1 << ((key >>> shift) & MASK);
+    int pos = Integer.bitCount(node.bitmap() & (bit - 1));
+    Node[] children = node.children();
+
+    if ((node.bitmap() & bit) != 0) {
+      Node child = add(children[pos], key, shift - BITS);
+      if (child == children[pos]) {
+        return node;
+      }
+      Node[] newChildren = children.clone();
+      newChildren[pos] = child;
+      return new Node(node.bitmap(), newChildren);
+    }
+
+    Node[] newChildren = new Node[children.length + 1];
+    System.arraycopy(children, 0, newChildren, 0, pos);
+    newChildren[pos] = add(emptyNode(shift - BITS), key, shift - BITS);
+    System.arraycopy(children, pos, newChildren, pos + 1, children.length - pos);
+    return new Node(node.bitmap() | bit, newChildren);
+  }
+
+  // returns null when the node ends up empty so that the parent can drop it
+  private static Node remove(Node node, int key, int shift) {
+    if (shift == 0) {
+      int bit = 1 << (key & MASK);
+      if ((node.bitmap() & bit) == 0) {
+        return node;
+      }
+      int bitmap = node.bitmap() & ~bit;
+      return bitmap == 0 ? null : new Node(bitmap, null);
+    }
+
+    int bit = 1 << ((key >>> shift) & MASK);
+    if ((node.bitmap() & bit) == 0) {
+      return node;
+    }
+    int pos = Integer.bitCount(node.bitmap() & (bit - 1));
+    Node[] children = node.children();
+
+    Node child = remove(children[pos], key, shift - BITS);
+    if (child == children[pos]) {
+      return node;
+    }
+    if (child != null) {
+      Node[] newChildren = children.clone();
+      newChildren[pos] = child;
+      return new Node(node.bitmap(), newChildren);
+    }
+    if (node.bitmap() == bit) {
+      return null;
+    }
+    Node[] newChildren = new Node[children.length - 1];
+    System.arraycopy(children, 0, newChildren, 0, pos);
+    System.arraycopy(children, pos + 1, newChildren, pos, children.length - pos - 1);
+    return new Node(node.bitmap() & ~bit, newChildren);
+  }
+
+  private static void forEach(Node node, int prefix, int shift, IntConsumer action) {
+    int bitmap = node.bitmap();
+    int pos = 0;
+    while (bitmap != 0) {
+      int index = Integer.numberOfTrailingZeros(bitmap);
+      int key = prefix | (index << shift);
+      if (shift == 0) {
+        action.accept(toKey(key));
+      } else {
+        forEach(node.children()[pos++], key, shift - BITS, action);
+      }
+      bitmap &= bitmap - 1;
+    }
+  }
+}
@@ -1,5 +1,9 @@
 package ch.heigvd.tasklists;
 
-import java.util.List;
-
-public record TaskList(Integer id, String name, List<Integer> taskIds) {}
+public record TaskList(Integer id, String name, PersistentIntSet taskIds) {
+  public TaskList {
+    if (taskIds == null) {
+      taskIds = PersistentIntSet.empty();
+    }
+  }
+}
@@ -0,0 +1,3 @@
+package ch.heigvd.tasklists;
+
+public record TaskListMembershipRequest(Integer taskId) {}
@@ -28,15 +28,16 @@ public class TaskListsController {
   }
 
   private TaskListResponse toResponse(TaskList taskList) {
-    List<Task> resolvedTasks = new ArrayList<>();
-    if (taskList.taskIds() != null) {
-      for (Integer taskId : taskList.taskIds()) {
-        Task task = tasks.get(taskId);
-        if (task != null) {
-          resolvedTasks.add(task);
-        }
-      }
-    }
+    List<Task> resolvedTasks = new ArrayList<>(taskList.taskIds().size());
+    taskList
+        .taskIds()
+        .forEach(
+            taskId -> {
+              Task task = tasks.get(taskId);
+              if (task != null) {
+                resolvedTasks.add(task);
+              }
+            });
     return new TaskListResponse(taskList.id(), taskList.name(), resolvedTasks);
   }
 
@@ -56,7 +57,7 @@ public class TaskListsController {
    */
   public void invalidateCacheForTask(Integer taskId) {
     for (TaskList list : lists.values()) {
-      if (list.taskIds() != null && list.taskIds().contains(taskId)) {
+      if (list.taskIds().contains(taskId)) {
         taskListsCache.remove(list.id());
       }
     }
@@ -74,9 +75,7 @@ public class TaskListsController {
 
     TaskList newTaskList =
         new TaskList(
-            uniqueId.getAndIncrement(),
-            request.name(),
-            request.taskIds() != null ? new ArrayList<>(request.taskIds()) : new ArrayList<>());
+            uniqueId.getAndIncrement(), request.name(), PersistentIntSet.of(request.taskIds()));
 
     lists.put(newTaskList.id(), newTaskList);
 
@@ -197,10 +196,7 @@ public class TaskListsController {
     validateTaskIds(request.taskIds());
 
     TaskList updatedTaskList =
-        new TaskList(
-            id,
-            request.name(),
-            request.taskIds() != null ? new ArrayList<>(request.taskIds()) : new ArrayList<>());
+        new TaskList(id, request.name(), PersistentIntSet.of(request.taskIds()));
 
     lists.put(id, updatedTaskList);
 
@@ -214,6 +210,104 @@ public class TaskListsController {
     ctx.json(toResponse(updatedTaskList));
   }
 
+  /**
+   * Add a single task to a task list. Unlike {@link #update(Context)}, only the added task ID is
+   * sent and validated, and the existing membership is shared with the new version of the list.
+   */
+  public void addTask(Context ctx) {
+    Integer id = ctx.pathParamAsClass("id", Integer.class).get();
+
+    if (!lists.containsKey(id)) {
+      throw new NotFoundResponse();
+    }
+
+    LocalDateTime lastKnownModification =
+        ctx.headerAsClass("If-Unmodified-Since", LocalDateTime.class).getOrDefault(null);
+
+    if (lastKnownModification != null
+        && taskListsCache.containsKey(id)
+        && !taskListsCache.get(id).equals(lastKnownModification)) {
+      throw new PreconditionFailedResponse();
+    }
+
+    TaskListMembershipRequest request =
+        ctx.bodyValidator(TaskListMembershipRequest.class)
+            .check(obj -> obj.taskId() != null, "Missing taskId")
+            .get();
+
+    Integer taskId = request.taskId();
+
+    if (!tasks.containsKey(taskId)) {
+      throw new BadRequestResponse("Task with ID " + taskId + " does not exist");
+    }
+
+    // swap the list atomically so concurrent membership changes are not lost
+    TaskList updatedTaskList =
+        lists.computeIfPresent(
+            id,
+            (listId, list) -> {
+              if (list.taskIds().contains(taskId)) {
+                throw new ConflictResponse("Task with ID " + taskId + " is already in the list");
+              }
+              return new TaskList(listId, list.name(), list.taskIds().with(taskId));
+            });
+
+    if (updatedTaskList == null) {
+      throw new NotFoundResponse();
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    taskListsCache.put(id, now);
+
+    taskListsCache.remove(RESERVED_ID_TO_IDENTIFY_ALL_TASK_LISTS);
+
+    ctx.status(HttpStatus.CREATED);
+
+    ctx.header("Last-Modified", String.valueOf(now));
+  }
+
+  /** Remove a single task from a task list. The task itself is not deleted. */
+  public void removeTask(Context ctx) {
+    Integer id = ctx.pathParamAsClass("id", Integer.class).get();
+    Integer taskId = ctx.pathParamAsClass("taskId", Integer.class).get();
+
+    if (!lists.containsKey(id)) {
+      throw new NotFoundResponse();
+    }
+
+    LocalDateTime lastKnownModification =
+        ctx.headerAsClass("If-Unmodified-Since", LocalDateTime.class).getOrDefault(null);
+
+    if (lastKnownModification != null
+        && taskListsCache.containsKey(id)
+        && !taskListsCache.get(id).equals(lastKnownModification)) {
+      throw new PreconditionFailedResponse();
+    }
+
+    TaskList updatedTaskList =
+        lists.computeIfPresent(
+            id,
+            (listId, list) -> {
+              if (!list.taskIds().contains(taskId)) {
+                throw new NotFoundResponse("Task with ID " + taskId + " is not in the list");
+              }
+              return new TaskList(listId, list.name(), list.taskIds().without(taskId));
+            });
+
+    if (updatedTaskList == null) {
+      throw new NotFoundResponse();
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    taskListsCache.put(id, now);
+
+    taskListsCache.remove(RESERVED_ID_TO_IDENTIFY_ALL_TASK_LISTS);
+
+    ctx.header("Last-Modified", String.valueOf(now));
+
+    ctx.status(HttpStatus.NO_CONTENT);
+  }
+
   public void delete(Context ctx) {
     Integer id = ctx.pathParamAsClass("id", Integer.class).get();
 